@@ -0,0 +1,39 @@
+package rest.configs;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Resets the per-thread SQL statement count at the start of each request and logs it at the end.
+ */
+@Component
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementCountFilter.class);
+
+    private final SqlStatementMonitor monitor;
+
+    public SqlStatementCountFilter(SqlStatementMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        monitor.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            logger.debug("{} {} issued {} SQL statements",
+                    request.getMethod(), request.getRequestURI(), monitor.getStatementCount());
+        }
+    }
+}
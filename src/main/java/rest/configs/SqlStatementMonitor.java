@@ -0,0 +1,52 @@
+package rest.configs;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Counts the SQL statements executed on the current thread and logs statements slower than
+ * {@code users.sql.slow-query-threshold-ms}. Only the SQL text is logged, bind parameters never are.
+ */
+@Component
+public class SqlStatementMonitor implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementMonitor.class);
+
+    private final ThreadLocal<Long> statementCount = ThreadLocal.withInitial(() -> 0L);
+
+    private final long slowQueryThresholdMillis;
+
+    public SqlStatementMonitor(@Value("${users.sql.slow-query-threshold-ms:200}") long slowQueryThresholdMillis) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    public void reset() {
+        statementCount.set(0L);
+    }
+
+    public long getStatementCount() {
+        return statementCount.get();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        statementCount.set(statementCount.get() + queryInfoList.size());
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                logger.warn("Slow SQL took {} ms (bind parameters redacted): {}",
+                        execInfo.getElapsedTime(), queryInfo.getQuery());
+            }
+        }
+    }
+}
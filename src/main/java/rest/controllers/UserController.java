@@ -2,21 +2,32 @@ package rest.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import rest.dtos.CreateUserDTO;
 import rest.dtos.UserDTO;
+import rest.dtos.UserField;
+import rest.dtos.UserStatsDTO;
+import rest.services.UserChangeFeed;
+import rest.services.UserPageCache;
 import rest.services.UserService;
+import rest.services.UserStatistics;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping(value = "/api")
@@ -27,26 +38,62 @@ public class UserController {
 
     private final UserService userService;
 
-    public UserController(UserService userService) {
+    private final UserChangeFeed userChangeFeed;
+
+    private final UserStatistics userStatistics;
+
+    private final UserPageCache userPageCache;
+
+    public UserController(UserService userService, UserChangeFeed userChangeFeed, UserStatistics userStatistics,
+                          UserPageCache userPageCache) {
         this.userService = userService;
+        this.userChangeFeed = userChangeFeed;
+        this.userStatistics = userStatistics;
+        this.userPageCache = userPageCache;
     }
 
     @Operation(summary = "Get all users", description = "Fetch all users with pagination")
+    @ApiResponse(responseCode = "200", description = "Page of users",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = UserPage.class)))
     @GetMapping(path = "/users")
-    public ResponseEntity<Page<UserDTO>> getAllUsers(
+    public ResponseEntity<byte[]> getAllUsers(
             @Parameter(description = "Pagination information", required = true)
-            Pageable pageable) {
-        logger.info("Fetching all users with pagination: {}", pageable);
-        return ResponseEntity.ok().body(userService.getUsers(pageable));
+            Pageable pageable,
+            @Parameter(description = "Comma separated fields to return, e.g. id,name")
+            @RequestParam(required = false) String fields) {
+        logger.info("Fetching all users with pagination: {}, fields: {}", pageable, fields);
+        Set<UserField> selected = UserField.parse(fields);
+        byte[] body = userPageCache.get(pageable, selected, () -> userService.getUsers(pageable, selected));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @Operation(summary = "Stream user changes", description = "Server-sent events for created and deleted users, resumable via Last-Event-ID")
+    @GetMapping(path = "/users/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUserChanges(
+            @Parameter(description = "ID of the last event received, to resume the stream")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        logger.info("Subscribing to user changes from event ID: {}", lastEventId);
+        return userChangeFeed.subscribe(lastEventId);
+    }
+
+    @Operation(summary = "Get user statistics", description = "User counts by age band and top email domains")
+    @GetMapping(path = "/users/stats")
+    public ResponseEntity<UserStatsDTO> getUserStats(
+            @Parameter(description = "Number of email domains to return")
+            @RequestParam(defaultValue = "10") int top) {
+        logger.info("Fetching user statistics, top {} domains", top);
+        return ResponseEntity.ok().body(userStatistics.snapshot(top));
     }
 
     @Operation(summary = "Get user by ID", description = "Fetch a user by their unique ID")
     @GetMapping(path = "/users/{id}")
     public ResponseEntity<UserDTO> getUserByIdPath(
             @Parameter(description = "ID of the user to fetch", required = true)
-            @PathVariable Long id) {
-        logger.info("Fetching user by ID: {}", id);
-        return ResponseEntity.ok().body(userService.getUserById(id));
+            @PathVariable Long id,
+            @Parameter(description = "Comma separated fields to return, e.g. id,name")
+            @RequestParam(required = false) String fields) {
+        logger.info("Fetching user by ID: {}, fields: {}", id, fields);
+        return ResponseEntity.ok().body(userService.getUserById(id, UserField.parse(fields)));
     }
 
     @Operation(summary = "Create a new user", description = "Save a new user to the database")
@@ -67,4 +114,14 @@ public class UserController {
         userService.deleteUserById(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Documents the JSON shape of the cached {@code Page<UserDTO>} bytes returned by {@link #getAllUsers}.
+     */
+    @Schema(name = "PageUserDTO")
+    static final class UserPage extends PageImpl<UserDTO> {
+        private UserPage(List<UserDTO> content) {
+            super(content);
+        }
+    }
 }
@@ -0,0 +1,67 @@
+package rest.dtos;
+
+import rest.exceptions.InvalidFieldsException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Fields of {@link UserDTO} that can be requested through the {@code fields} query parameter.
+ * Each field maps to the {@code User} attribute of the same name.
+ */
+public enum UserField {
+
+    ID("id", (builder, value) -> builder.id((Long) value)),
+    NAME("name", (builder, value) -> builder.name((String) value)),
+    EMAIL("email", (builder, value) -> builder.email((String) value)),
+    MOBILE("mobile", (builder, value) -> builder.mobile((String) value)),
+    AGE("age", (builder, value) -> builder.age((Integer) value));
+
+    public static final Set<UserField> ALL = Collections.unmodifiableSet(EnumSet.allOf(UserField.class));
+
+    private final String attribute;
+    private final BiConsumer<UserDTO.UserDTOBuilder, Object> setter;
+
+    UserField(String attribute, BiConsumer<UserDTO.UserDTOBuilder, Object> setter) {
+        this.attribute = attribute;
+        this.setter = setter;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public void apply(UserDTO.UserDTOBuilder builder, Object value) {
+        setter.accept(builder, value);
+    }
+
+    /**
+     * Parses a comma separated field list such as {@code id,name}. A missing or blank list selects all fields.
+     */
+    public static Set<UserField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<UserField> selected = EnumSet.noneOf(UserField.class);
+        List<String> unknown = new ArrayList<>();
+        for (String token : fields.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            Arrays.stream(values())
+                    .filter(f -> f.attribute.equals(name))
+                    .findFirst()
+                    .ifPresentOrElse(selected::add, () -> unknown.add(name));
+        }
+        if (!unknown.isEmpty()) {
+            throw new InvalidFieldsException(unknown, Arrays.stream(values()).map(UserField::getAttribute).toList());
+        }
+        return selected.isEmpty() ? ALL : selected;
+    }
+}
@@ -0,0 +1,18 @@
+package rest.dtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class UserStatsDTO {
+
+    long totalUsers;
+
+    Map<String, Long> ageBands;
+
+    Map<String, Long> topEmailDomains;
+
+}
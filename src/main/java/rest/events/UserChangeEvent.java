@@ -0,0 +1,23 @@
+package rest.events;
+
+import rest.dtos.UserDTO;
+
+/**
+ * Published by the user service whenever a user is created or deleted.
+ * Listeners should react after the surrounding transaction commits.
+ */
+public record UserChangeEvent(Type type, UserDTO user) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    public static UserChangeEvent created(UserDTO user) {
+        return new UserChangeEvent(Type.CREATED, user);
+    }
+
+    public static UserChangeEvent deleted(UserDTO user) {
+        return new UserChangeEvent(Type.DELETED, user);
+    }
+}
@@ -0,0 +1,10 @@
+package rest.exceptions;
+
+import java.util.Collection;
+
+public class InvalidFieldsException extends AppException {
+    public InvalidFieldsException(Collection<String> unknownFields, Collection<String> allowedFields) {
+        super("INVALID_FIELDS", "Unknown fields: " + String.join(", ", unknownFields)
+                + ". Allowed fields: " + String.join(", ", allowedFields), 400);
+    }
+}
@@ -1,12 +1,31 @@
 package rest.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import rest.entities.User;
 
-import java.util.Optional;;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByEmail(String email);
+
+    @Query("select u.age as age, count(u) as total from User u group by u.age")
+    List<AgeCount> countByAge();
+
+    @Query("select lower(substring(u.email, locate('@', u.email) + 1)) as domain, count(u) as total from User u"
+            + " group by lower(substring(u.email, locate('@', u.email) + 1))")
+    List<DomainCount> countByEmailDomain();
+
+    interface AgeCount {
+        Integer getAge();
+        Long getTotal();
+    }
+
+    interface DomainCount {
+        String getDomain();
+        Long getTotal();
+    }
 }
@@ -0,0 +1,18 @@
+package rest.repositories;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import rest.dtos.UserDTO;
+import rest.dtos.UserField;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Queries that select only the requested user columns.
+ */
+public interface UserRepositoryCustom {
+    Page<UserDTO> findAllProjected(Set<UserField> fields, Pageable pageable);
+
+    Optional<UserDTO> findProjectedById(Long id, Set<UserField> fields);
+}
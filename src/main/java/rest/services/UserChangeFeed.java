@@ -0,0 +1,212 @@
+package rest.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import rest.events.UserChangeEvent;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed user changes out to server-sent event subscribers.
+ * <p>
+ * The most recent events are kept in a fixed-size ring buffer so a reconnecting client can resume
+ * from its {@code Last-Event-ID}. Each subscriber gets its own bounded queue drained on a dedicated,
+ * bounded executor; a subscriber that falls a full buffer behind is dropped instead of blocking the writer.
+ * A send to a stalled client holds one feed thread until the write fails, so
+ * {@code users.change-feed.threads} bounds how many stalled clients the feed tolerates without
+ * affecting the rest of the application.
+ */
+@Component
+public class UserChangeFeed implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserChangeFeed.class);
+
+    private final FeedEntry[] ring;
+    private final TaskExecutor executor;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // guarded by this
+    private long lastSequence;
+
+    @Autowired
+    public UserChangeFeed(@Value("${users.change-feed.buffer-size:1024}") int bufferSize,
+                          @Value("${users.change-feed.timeout-ms:1800000}") long timeoutMillis,
+                          @Value("${users.change-feed.threads:8}") int threads,
+                          @Value("${users.change-feed.queue-capacity:1000}") int queueCapacity) {
+        this(newExecutor(threads, queueCapacity), bufferSize, timeoutMillis);
+    }
+
+    UserChangeFeed(TaskExecutor executor, int bufferSize, long timeoutMillis) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("users.change-feed.buffer-size must be positive");
+        }
+        this.ring = new FeedEntry[bufferSize];
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    private static ThreadPoolTaskExecutor newExecutor(int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("user-change-feed-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (executor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(emitter, lastEventId);
+        return emitter;
+    }
+
+    // Runs after the other listeners so state derived from the change is current when clients hear about it.
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        String name = event.type().name().toLowerCase();
+        synchronized (this) {
+            FeedEntry entry = new FeedEntry(++lastSequence, name, event.user());
+            ring[(int) (entry.id() % ring.length)] = entry;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(entry);
+            }
+        }
+    }
+
+    synchronized void register(SseEmitter emitter, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+
+        if (lastEventId != null && lastEventId > lastSequence) {
+            logger.info("Last-Event-ID {} is ahead of the feed, asking client to resync", lastEventId);
+            subscriber.offer(new FeedEntry(lastSequence, "reset", "resync"));
+        } else if (lastEventId != null && lastEventId < lastSequence) {
+            long oldest = Math.max(1, lastSequence - ring.length + 1);
+            long from = lastEventId + 1;
+            if (from < oldest) {
+                logger.info("Last-Event-ID {} is older than the retained feed, asking client to resync", lastEventId);
+                subscriber.offer(new FeedEntry(oldest - 1, "reset", "resync"));
+                from = oldest;
+            }
+            for (long id = from; id <= lastSequence; id++) {
+                subscriber.offer(ring[(int) (id % ring.length)]);
+            }
+        }
+        if (subscriber.closed) {
+            logger.warn("Change feed subscriber dropped while replaying from event ID {}", lastEventId);
+            return;
+        }
+        subscribers.add(subscriber);
+        logger.info("Change feed subscriber registered, active subscribers: {}", subscribers.size());
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private record FeedEntry(long id, String name, Object data) { }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<FeedEntry> pending = new ArrayBlockingQueue<>(ring.length + 1);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean dropped;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(FeedEntry entry) {
+            if (closed) {
+                return;
+            }
+            if (!pending.offer(entry)) {
+                logger.warn("Dropping slow change feed subscriber after {} undelivered events", pending.size());
+                drop();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        // Completing the emitter waits for any in-flight send, so it is left to the drain task
+        // rather than done on the writer thread.
+        private void drop() {
+            dropped = true;
+            close();
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    // No drain is in flight here, so completing cannot block; the client reconnects
+                    // with its Last-Event-ID instead of silently missing events.
+                    logger.warn("Change feed executor saturated, dropping subscriber");
+                    dropped = true;
+                    close();
+                    emitter.completeWithError(ex);
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                FeedEntry entry;
+                while (!closed && (entry = pending.poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(entry.id()))
+                            .name(entry.name())
+                            .data(entry.data()));
+                }
+            } catch (IOException | IllegalStateException ex) {
+                logger.info("Change feed subscriber disconnected: {}", ex.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (dropped) {
+                emitter.complete();
+            } else if (!closed && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            closed = true;
+            pending.clear();
+            subscribers.remove(this);
+        }
+    }
+}
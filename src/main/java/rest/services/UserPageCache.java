@@ -0,0 +1,125 @@
+package rest.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rest.dtos.UserDTO;
+import rest.dtos.UserField;
+import rest.events.UserChangeEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the encoded JSON of the first user list pages, keyed by page, size, sort and selected fields.
+ * <p>
+ * Every committed user change bumps a global generation and entries from older generations are
+ * never served. Total cached bytes are capped by {@code users.page-cache.max-bytes}.
+ */
+@Component
+public class UserPageCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPageCache.class);
+
+    private final ObjectMapper objectMapper;
+    private final int cachedPages;
+    private final long maxBytes;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong cachedBytes = new AtomicLong();
+    private final Map<PageKey, CachedPage> entries = new ConcurrentHashMap<>();
+
+    public UserPageCache(ObjectMapper objectMapper,
+                         @Value("${users.page-cache.pages:5}") int cachedPages,
+                         @Value("${users.page-cache.max-bytes:4194304}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.cachedPages = cachedPages;
+        this.maxBytes = maxBytes;
+    }
+
+    public byte[] get(Pageable pageable, Set<UserField> fields, Supplier<Page<UserDTO>> loader) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() >= cachedPages) {
+            return encode(loader.get());
+        }
+        PageKey key = new PageKey(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), fields);
+        long current = generation.get();
+        CachedPage cached = entries.get(key);
+        if (cached != null && cached.generation() == current) {
+            logger.debug("Serving cached user page: {}", key);
+            return cached.body();
+        }
+
+        byte[] body = encode(loader.get());
+        store(key, new CachedPage(current, body));
+        return body;
+    }
+
+    // Invalidate before UserChangeFeed tells clients about the change, so a client that re-reads
+    // the list on an event never gets the page from before it.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        generation.incrementAndGet();
+    }
+
+    long cachedBytes() {
+        return cachedBytes.get();
+    }
+
+    private void store(PageKey key, CachedPage page) {
+        int size = page.body().length;
+        if (!reserve(size)) {
+            evictStale();
+            if (!reserve(size)) {
+                logger.debug("User page cache full, not caching page: {}", key);
+                return;
+            }
+        }
+        CachedPage previous = entries.put(key, page);
+        if (previous != null) {
+            cachedBytes.addAndGet(-previous.body().length);
+        }
+    }
+
+    // Reserves bytes before the entry is published so concurrent stores can never exceed maxBytes.
+    private boolean reserve(long size) {
+        if (cachedBytes.addAndGet(size) <= maxBytes) {
+            return true;
+        }
+        cachedBytes.addAndGet(-size);
+        return false;
+    }
+
+    private void evictStale() {
+        long current = generation.get();
+        entries.forEach((key, page) -> {
+            if (page.generation() != current && entries.remove(key, page)) {
+                cachedBytes.addAndGet(-page.body().length);
+            }
+        });
+    }
+
+    private byte[] encode(Page<UserDTO> page) {
+        try {
+            return objectMapper.writeValueAsBytes(page);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize user page", ex);
+        }
+    }
+
+    private record PageKey(int page, int size, Sort sort, Set<UserField> fields) { }
+
+    private record CachedPage(long generation, byte[] body) { }
+}
@@ -1,12 +1,15 @@
 package rest.services;
 
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import rest.dtos.CreateUserDTO;
 import rest.dtos.UserDTO;
+import rest.dtos.UserField;
 import rest.entities.User;
+import rest.events.UserChangeEvent;
 import rest.exceptions.UserNotFoundException;
 import rest.repositories.UserRepository;
 
@@ -15,6 +18,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class UserService {
@@ -23,8 +27,11 @@ public class UserService {
 
     private final UserRepository userRepository;
 
-    public UserService(UserRepository userRepository) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserService(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public Page<UserDTO> getUsers(Pageable pageable) {
@@ -32,6 +39,14 @@ public class UserService {
         return userRepository.findAll(pageable).map(UserDTO::fromEntity);
     }
 
+    public Page<UserDTO> getUsers(Pageable pageable, Set<UserField> fields) {
+        if (fields.containsAll(UserField.ALL)) {
+            return getUsers(pageable);
+        }
+        logger.info("Fetching users with pageable: {}, fields: {}", pageable, fields);
+        return userRepository.findAllProjected(fields, pageable);
+    }
+
     public UserDTO getUserById(Long id) {
         logger.info("Fetching user by ID: {}", id);
         return userRepository.findById(id)
@@ -42,6 +57,15 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
+    public UserDTO getUserById(Long id, Set<UserField> fields) {
+        if (fields.containsAll(UserField.ALL)) {
+            return getUserById(id);
+        }
+        logger.info("Fetching user by ID: {}, fields: {}", id, fields);
+        return userRepository.findProjectedById(id, fields)
+                .orElseThrow(() -> new UserNotFoundException(id));
+    }
+
     @Transactional
     public UserDTO saveUser(CreateUserDTO userRequest) {
         logger.info("Saving new user: email: {}", userRequest.getEmail());
@@ -58,14 +82,18 @@ public class UserService {
 
         User created = userRepository.save(user);
         logger.info("User created: ID: {}, name: {}", created.getId(), created.getName());
-        return UserDTO.fromEntity(created);
+        UserDTO dto = UserDTO.fromEntity(created);
+        eventPublisher.publishEvent(UserChangeEvent.created(dto));
+        return dto;
     }
 
+    @Transactional
     public void deleteUserById(Long id) {
         logger.info("Deleting user by ID: {}", id);
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
         userRepository.deleteById(user.getId());
+        eventPublisher.publishEvent(UserChangeEvent.deleted(UserDTO.fromEntity(user)));
         logger.info("User ID: {} deleted", id);
     }
 
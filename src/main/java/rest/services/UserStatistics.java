@@ -0,0 +1,172 @@
+package rest.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rest.dtos.UserDTO;
+import rest.dtos.UserStatsDTO;
+import rest.events.UserChangeEvent;
+import rest.repositories.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory user counts by age band and email domain.
+ * <p>
+ * The aggregates are rebuilt from the database once at startup and then kept current from committed
+ * {@link UserChangeEvent}s, so reading them never touches the users table. Total and age band counters
+ * are lock-free {@link LongAdder}s. Domain counts and the top {@code users.stats.top-domains} domains are
+ * updated together under a monitor on the write path, and domains whose count drops to zero are removed.
+ * <p>
+ * A read is O(bands + K), independent of table size and of the number of distinct domains. A write costs
+ * O(K log K), except when a user is deleted from a domain in the top K: the top K is then rebuilt from all
+ * distinct domains, O(D log K).
+ */
+@Component
+public class UserStatistics implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatistics.class);
+
+    // Matches the @Min(1)/@Max(100) range on CreateUserDTO.age
+    static final int MIN_AGE = 1;
+    static final int MAX_AGE = 100;
+    static final int BAND_WIDTH = 10;
+
+    private static final Comparator<Map.Entry<String, Long>> BY_COUNT_DESC =
+            Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.<String, Long>comparingByKey());
+
+    private final UserRepository userRepository;
+    private final int maxTopDomains;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder[] ageBands = new LongAdder[(MAX_AGE - MIN_AGE) / BAND_WIDTH + 1];
+
+    // guarded by this
+    private final Map<String, Long> emailDomains = new HashMap<>();
+    // immutable, sorted by count descending, at most maxTopDomains entries
+    private volatile List<Map.Entry<String, Long>> topDomains = List.of();
+
+    public UserStatistics(UserRepository userRepository,
+                          @Value("${users.stats.top-domains:10}") int maxTopDomains) {
+        if (maxTopDomains < 1) {
+            throw new IllegalArgumentException("users.stats.top-domains must be positive");
+        }
+        this.userRepository = userRepository;
+        this.maxTopDomains = maxTopDomains;
+        for (int i = 0; i < ageBands.length; i++) {
+            ageBands[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (UserRepository.AgeCount row : userRepository.countByAge()) {
+            ageBands[bandIndex(row.getAge())].add(row.getTotal());
+            total.add(row.getTotal());
+        }
+        synchronized (this) {
+            for (UserRepository.DomainCount row : userRepository.countByEmailDomain()) {
+                if (row.getTotal() > 0) {
+                    emailDomains.merge(row.getDomain(), row.getTotal(), Long::sum);
+                }
+            }
+            recomputeTopDomains();
+        }
+        logger.info("User statistics rebuilt: {} users, {} email domains", total.sum(), emailDomains.size());
+    }
+
+    // Runs before UserChangeFeed so clients reacting to a change event read current stats.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        long delta = event.type() == UserChangeEvent.Type.CREATED ? 1 : -1;
+        UserDTO user = event.user();
+        total.add(delta);
+        ageBands[bandIndex(user.getAge())].add(delta);
+        updateDomain(emailDomain(user.getEmail()), delta);
+    }
+
+    /**
+     * Returns the current aggregates with at most {@code topDomains} email domains, capped at
+     * {@code users.stats.top-domains}.
+     */
+    public UserStatsDTO snapshot(int topDomains) {
+        Map<String, Long> bands = new LinkedHashMap<>();
+        for (int i = 0; i < ageBands.length; i++) {
+            int from = MIN_AGE + i * BAND_WIDTH;
+            int to = Math.min(from + BAND_WIDTH - 1, MAX_AGE);
+            bands.put(from + "-" + to, ageBands[i].sum());
+        }
+
+        Map<String, Long> domains = new LinkedHashMap<>();
+        List<Map.Entry<String, Long>> top = this.topDomains;
+        for (int i = 0; i < Math.min(Math.max(topDomains, 0), top.size()); i++) {
+            domains.put(top.get(i).getKey(), top.get(i).getValue());
+        }
+
+        return UserStatsDTO.builder()
+                .totalUsers(total.sum())
+                .ageBands(bands)
+                .topEmailDomains(domains)
+                .build();
+    }
+
+    private synchronized void updateDomain(String domain, long delta) {
+        long count = emailDomains.getOrDefault(domain, 0L) + delta;
+        if (count > 0) {
+            emailDomains.put(domain, count);
+        } else {
+            emailDomains.remove(domain);
+        }
+
+        List<Map.Entry<String, Long>> top = new ArrayList<>(topDomains);
+        boolean member = top.removeIf(e -> e.getKey().equals(domain));
+        if (member && delta < 0 && top.size() + 1 == maxTopDomains) {
+            // A domain outside the top K may now outrank this one
+            recomputeTopDomains();
+            return;
+        }
+        Map.Entry<String, Long> entry = Map.entry(domain, count);
+        boolean qualifies = member || top.size() < maxTopDomains
+                || BY_COUNT_DESC.compare(entry, top.get(top.size() - 1)) < 0;
+        if (count > 0 && qualifies) {
+            top.add(entry);
+            top.sort(BY_COUNT_DESC);
+            if (top.size() > maxTopDomains) {
+                top.remove(top.size() - 1);
+            }
+        }
+        topDomains = List.copyOf(top);
+    }
+
+    // guarded by this
+    private void recomputeTopDomains() {
+        topDomains = emailDomains.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue()))
+                .sorted(BY_COUNT_DESC)
+                .limit(maxTopDomains)
+                .toList();
+    }
+
+    private int bandIndex(Integer age) {
+        int clamped = Math.max(MIN_AGE, Math.min(MAX_AGE, age == null ? MIN_AGE : age));
+        return (clamped - MIN_AGE) / BAND_WIDTH;
+    }
+
+    static String emailDomain(String email) {
+        return email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,6 @@
 package rest.controllers;
 
+import com.jayway.jsonpath.JsonPath;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,7 +9,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import rest.configs.SqlStatementMonitor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -19,6 +23,9 @@ class UserControllerIntegrationTests {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private SqlStatementMonitor sqlStatementMonitor;
+
     @Test
     @DisplayName("GET /api/users - Fetch all users with pagination")
     void getAllUsers() throws Exception {
@@ -145,4 +152,169 @@ class UserControllerIntegrationTests {
                 .andExpect(jsonPath("$.fieldErrors.length()").value(Matchers.greaterThanOrEqualTo(3)))
                 .andExpect(jsonPath("$.fieldErrors[*].field", Matchers.hasItems("name", "mobile", "age")));
     }
+
+    @Test
+    @DisplayName("GET /api/users/{id} issues exactly 1 query")
+    void getUserByIdIssuesSingleQuery() throws Exception {
+        long id = createUser("query.count.get@example.com", "5550000001");
+
+        sqlStatementMonitor.reset();
+        mockMvc.perform(get("/api/users/{id}", id)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        assertEquals(1L, sqlStatementMonitor.getStatementCount());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/users/{id} issues one select and one delete")
+    void deleteUserByIdIssuesSelectAndDelete() throws Exception {
+        long id = createUser("query.count.delete@example.com", "5550000002");
+
+        sqlStatementMonitor.reset();
+        mockMvc.perform(delete("/api/users/{id}", id))
+                .andExpect(status().isNoContent());
+
+        assertEquals(2L, sqlStatementMonitor.getStatementCount());
+    }
+
+    @Test
+    @DisplayName("GET /api/users serves a repeated page without querying the database")
+    void repeatedPageIsServedFromCache() throws Exception {
+        mockMvc.perform(get("/api/users").param("page", "0").param("size", "50"))
+                .andExpect(status().isOk());
+
+        sqlStatementMonitor.reset();
+        mockMvc.perform(get("/api/users").param("page", "0").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        assertEquals(0L, sqlStatementMonitor.getStatementCount());
+    }
+
+    @Test
+    @DisplayName("GET /api/users reflects users created after the page was cached")
+    void cachedPageIsInvalidatedByNewUser() throws Exception {
+        mockMvc.perform(get("/api/users").param("page", "0").param("size", "50"))
+                .andExpect(status().isOk());
+
+        createUser("page.cache@example.com", "5550000003");
+
+        mockMvc.perform(get("/api/users").param("page", "0").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].email", Matchers.hasItem("page.cache@example.com")));
+    }
+
+    @Test
+    @DisplayName("GET /api/users?fields=id,name returns only the requested fields")
+    void getAllUsersWithFields() throws Exception {
+        createUser("fields.list@example.com", "5550000004");
+
+        mockMvc.perform(get("/api/users")
+                        .param("page", "0")
+                        .param("size", "50")
+                        .param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").exists())
+                .andExpect(jsonPath("$.content[0].name").exists())
+                .andExpect(jsonPath("$.content[0].email").doesNotExist())
+                .andExpect(jsonPath("$.content[0].mobile").doesNotExist())
+                .andExpect(jsonPath("$.content[0].age").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/users/{id}?fields=name selects a single column")
+    void getUserByIdWithFields() throws Exception {
+        long id = createUser("fields.single@example.com", "5550000005");
+
+        sqlStatementMonitor.reset();
+        mockMvc.perform(get("/api/users/{id}", id).param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Query Count"))
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andExpect(jsonPath("$.email").doesNotExist());
+
+        assertEquals(1L, sqlStatementMonitor.getStatementCount());
+    }
+
+    @Test
+    @DisplayName("GET /api/users with unknown fields returns structured INVALID_FIELDS error")
+    void unknownFieldsReturnStructuredError() throws Exception {
+        mockMvc.perform(get("/api/users").param("fields", "id,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_FIELDS"))
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("Unknown fields: password. Allowed fields: id, name, email, mobile, age"))
+                .andExpect(jsonPath("$.path").value("/api/users"));
+    }
+
+    @Test
+    @DisplayName("GET /api/users/stats is served from memory and tracks creates and deletes")
+    void userStatsTrackChangesWithoutQueries() throws Exception {
+        MvcResult before = mockMvc.perform(get("/api/users/stats"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.totalUsers").isNumber())
+                .andExpect(jsonPath("$.ageBands.length()").value(10))
+                .andExpect(jsonPath("$.ageBands['1-10']").isNumber())
+                .andExpect(jsonPath("$.ageBands['91-100']").isNumber())
+                .andExpect(jsonPath("$.topEmailDomains").isMap())
+                .andReturn();
+        String body = before.getResponse().getContentAsString();
+        int total = JsonPath.read(body, "$.totalUsers");
+        int band = JsonPath.read(body, "$.ageBands['31-40']");
+
+        long id = createUser("stats@stats-domain.test", "5550000006");
+
+        sqlStatementMonitor.reset();
+        mockMvc.perform(get("/api/users/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalUsers").value(total + 1))
+                .andExpect(jsonPath("$.ageBands['31-40']").value(band + 1))
+                .andExpect(jsonPath("$.topEmailDomains['stats-domain.test']").value(1));
+        assertEquals(0L, sqlStatementMonitor.getStatementCount());
+
+        mockMvc.perform(delete("/api/users/{id}", id))
+                .andExpect(status().isNoContent());
+
+        sqlStatementMonitor.reset();
+        mockMvc.perform(get("/api/users/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalUsers").value(total))
+                .andExpect(jsonPath("$.ageBands['31-40']").value(band))
+                .andExpect(jsonPath("$.topEmailDomains['stats-domain.test']").doesNotExist());
+        assertEquals(0L, sqlStatementMonitor.getStatementCount());
+    }
+
+    @Test
+    @DisplayName("GET /api/users/changes starts an event stream")
+    void streamUserChangesStartsEventStream() throws Exception {
+        mockMvc.perform(get("/api/users/changes")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM));
+    }
+
+    @Test
+    @DisplayName("GET /api/users/changes with non-numeric Last-Event-ID returns structured TYPE_MISMATCH error")
+    void streamUserChangesWithInvalidLastEventId() throws Exception {
+        mockMvc.perform(get("/api/users/changes")
+                        .header("Last-Event-ID", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("TYPE_MISMATCH"))
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.path").value("/api/users/changes"));
+    }
+
+    private long createUser(String email, String mobile) throws Exception {
+        String userJson = "{\"name\":\"Query Count\",\"email\":\"" + email + "\",\"mobile\":\"" + mobile + "\",\"age\":40}";
+        MvcResult result = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(userJson))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Number id = JsonPath.read(result.getResponse().getContentAsString(), "$.id");
+        return id.longValue();
+    }
 }
@@ -0,0 +1,211 @@
+package rest.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import rest.dtos.UserDTO;
+import rest.events.UserChangeEvent;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserChangeFeedTests {
+
+    private static final TaskExecutor DIRECT = Runnable::run;
+
+    private static final TaskExecutor SATURATED = task -> {
+        throw new RejectedExecutionException("saturated");
+    };
+
+    @Test
+    @DisplayName("new subscriber receives live events only")
+    void newSubscriberReceivesLiveEvents() {
+        UserChangeFeed feed = new UserChangeFeed(DIRECT, 4, 0L);
+        feed.onUserChange(created(1L));
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.register(emitter, null);
+        feed.onUserChange(created(2L));
+
+        assertEquals(1, emitter.events.size());
+        assertTrue(emitter.events.get(0).startsWith("id:2\nevent:created\n"));
+    }
+
+    @Test
+    @DisplayName("subscriber resumes after Last-Event-ID from the ring buffer")
+    void subscriberResumesAfterLastEventId() {
+        UserChangeFeed feed = new UserChangeFeed(DIRECT, 4, 0L);
+        feed.onUserChange(created(1L));
+        feed.onUserChange(created(2L));
+        feed.onUserChange(UserChangeEvent.deleted(user(1L)));
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.register(emitter, 1L);
+
+        assertEquals(2, emitter.events.size());
+        assertTrue(emitter.events.get(0).startsWith("id:2\nevent:created\n"));
+        assertTrue(emitter.events.get(1).startsWith("id:3\nevent:deleted\n"));
+    }
+
+    @Test
+    @DisplayName("subscriber behind the ring buffer is told to resync")
+    void subscriberBehindBufferGetsReset() {
+        UserChangeFeed feed = new UserChangeFeed(DIRECT, 2, 0L);
+        for (long id = 1; id <= 5; id++) {
+            feed.onUserChange(created(id));
+        }
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.register(emitter, 1L);
+
+        assertEquals(3, emitter.events.size());
+        assertTrue(emitter.events.get(0).startsWith("id:3\nevent:reset\n"));
+        assertTrue(emitter.events.get(1).startsWith("id:4\n"));
+        assertTrue(emitter.events.get(2).startsWith("id:5\n"));
+    }
+
+    @Test
+    @DisplayName("slow subscriber is dropped without completing it on the writer thread")
+    void slowSubscriberIsDropped() {
+        UserChangeFeed feed = new UserChangeFeed(task -> { }, 2, 0L);
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.register(emitter, null);
+        assertEquals(1, feed.subscriberCount());
+
+        for (long id = 1; id <= 4; id++) {
+            feed.onUserChange(created(id));
+        }
+
+        assertFalse(emitter.completed);
+        assertEquals(0, feed.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("writers are not blocked by a subscriber stuck in send")
+    void writersNotBlockedBySubscriberStuckInSend() throws Exception {
+        ExecutorService drainThread = Executors.newSingleThreadExecutor();
+        try {
+            UserChangeFeed feed = new UserChangeFeed(drainThread::execute, 2, 0L);
+            BlockingEmitter emitter = new BlockingEmitter();
+            feed.register(emitter, null);
+
+            feed.onUserChange(created(1L));
+            assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                for (long id = 2; id <= 5; id++) {
+                    feed.onUserChange(created(id));
+                }
+            });
+            assertEquals(0, feed.subscriberCount());
+            assertEquals(1, emitter.completed.getCount());
+
+            emitter.release.countDown();
+            assertTrue(emitter.completed.await(5, TimeUnit.SECONDS));
+        } finally {
+            drainThread.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("subscriber is dropped and completed when the feed executor is saturated")
+    void subscriberDroppedWhenExecutorSaturated() {
+        UserChangeFeed feed = new UserChangeFeed(SATURATED, 2, 0L);
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.register(emitter, null);
+
+        feed.onUserChange(created(1L));
+
+        assertEquals(0, feed.subscriberCount());
+        assertTrue(emitter.events.isEmpty());
+        assertTrue(emitter.completed);
+    }
+
+    @Test
+    @DisplayName("subscriber rejected during replay is completed and never registered")
+    void subscriberRejectedDuringReplay() {
+        UserChangeFeed feed = new UserChangeFeed(SATURATED, 4, 0L);
+        feed.onUserChange(created(1L));
+        feed.onUserChange(created(2L));
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.register(emitter, 0L);
+
+        assertEquals(0, feed.subscriberCount());
+        assertTrue(emitter.events.isEmpty());
+        assertTrue(emitter.completed);
+    }
+
+    private static UserChangeEvent created(Long id) {
+        return UserChangeEvent.created(user(id));
+    }
+
+    private static UserDTO user(Long id) {
+        return UserDTO.builder().id(id).name("User " + id).build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder event = new StringBuilder();
+            builder.build().forEach(part -> event.append(part.getData()));
+            events.add(event.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed = true;
+        }
+    }
+
+    /**
+     * Blocks in {@code send} until released and, like {@code ResponseBodyEmitter}, makes
+     * {@code complete} wait for an in-flight send.
+     */
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final Object writeLock = new Object();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            synchronized (writeLock) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            synchronized (writeLock) {
+                completed.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package rest.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import rest.dtos.UserDTO;
+import rest.dtos.UserField;
+import rest.events.UserChangeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserPageCacheTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("repeated page is served from cache until a user change")
+    void servesCachedPageUntilUserChange() {
+        UserPageCache cache = new UserPageCache(objectMapper, 5, 1_000_000);
+        PageRequest pageable = PageRequest.of(0, 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        byte[] first = cache.get(pageable, UserField.ALL, () -> load(pageable, loads));
+        byte[] second = cache.get(pageable, UserField.ALL, () -> load(pageable, loads));
+        cache.onUserChange(UserChangeEvent.created(UserDTO.builder().id(2L).build()));
+        cache.get(pageable, UserField.ALL, () -> load(pageable, loads));
+
+        assertSame(first, second);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("concurrent misses never push the cache past max-bytes")
+    void concurrentStoresRespectByteCap() throws Exception {
+        int pageBytes = objectMapper.writeValueAsBytes(load(PageRequest.of(0, 1), new AtomicInteger())).length;
+        long maxBytes = pageBytes * 3L;
+        UserPageCache cache = new UserPageCache(objectMapper, 5, maxBytes);
+
+        int threads = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                PageRequest pageable = PageRequest.of(0, 1 + i);
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return cache.get(pageable, UserField.ALL, () -> load(PageRequest.of(0, 1), new AtomicInteger()));
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertTrue(cache.cachedBytes() <= maxBytes);
+        assertTrue(cache.cachedBytes() > 0);
+    }
+
+    private static Page<UserDTO> load(PageRequest pageable, AtomicInteger loads) {
+        loads.incrementAndGet();
+        UserDTO user = UserDTO.builder().id(1L).name("John Doe").email("john.doe@example.com").mobile("1234567890").age(30).build();
+        return new PageImpl<>(List.of(user), pageable, 1);
+    }
+}
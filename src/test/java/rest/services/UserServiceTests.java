@@ -6,18 +6,23 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
 import rest.dtos.CreateUserDTO;
 import rest.dtos.UserDTO;
+import rest.dtos.UserField;
 import rest.entities.User;
+import rest.events.UserChangeEvent;
 import rest.exceptions.UserNotFoundException;
 import rest.repositories.UserRepository;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,6 +32,9 @@ class UserServiceTests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -62,6 +70,7 @@ class UserServiceTests {
         assertEquals("John Doe", savedUser.getName());
         verify(userRepository, times(1)).findByEmail(createUserDTO.getEmail());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(eventPublisher, times(1)).publishEvent(UserChangeEvent.created(savedUser));
     }
 
     @Test
@@ -87,6 +96,7 @@ class UserServiceTests {
         assertThrows(IllegalArgumentException.class, () -> userService.saveUser(createUserDTO));
         verify(userRepository, times(1)).findByEmail(createUserDTO.getEmail());
         verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -107,6 +117,7 @@ class UserServiceTests {
 
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).deleteById(1L);
+        verify(eventPublisher, times(1)).publishEvent(UserChangeEvent.deleted(UserDTO.fromEntity(user)));
     }
 
     @Test
@@ -117,6 +128,7 @@ class UserServiceTests {
         assertThrows(UserNotFoundException.class, () -> userService.deleteUserById(999L));
         verify(userRepository, times(1)).findById(999L);
         verify(userRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -180,4 +192,49 @@ class UserServiceTests {
         assertEquals("Jane Doe", result.getContent().get(1).getName());
         verify(userRepository, times(1)).findAll(pageable);
     }
+
+    @Test
+    @DisplayName("getUsers with selected fields uses the projected query")
+    void getUsersWithFieldsUsesProjection() {
+        Set<UserField> fields = EnumSet.of(UserField.ID, UserField.NAME);
+        Pageable pageable = PageRequest.of(0, 2);
+        UserDTO projected = UserDTO.builder().id(1L).name("John Doe").build();
+
+        when(userRepository.findAllProjected(fields, pageable)).thenReturn(new PageImpl<>(List.of(projected)));
+
+        Page<UserDTO> result = userService.getUsers(pageable, fields);
+
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getContent().get(0).getEmail());
+        verify(userRepository, times(1)).findAllProjected(fields, pageable);
+        verify(userRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getUserById with all fields loads the entity")
+    void getUserByIdWithAllFieldsLoadsEntity() {
+        User user = User.builder()
+            .id(1L)
+            .name("John Doe")
+            .email("john.doe@example.com")
+            .mobile("1234567890")
+            .age(30)
+            .build();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        UserDTO foundUser = userService.getUserById(1L, UserField.ALL);
+
+        assertEquals("john.doe@example.com", foundUser.getEmail());
+        verify(userRepository, never()).findProjectedById(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("getUserById with selected fields throws exception for invalid ID")
+    void getUserByIdWithFieldsThrowsExceptionForInvalidId() {
+        Set<UserField> fields = EnumSet.of(UserField.NAME);
+        when(userRepository.findProjectedById(999L, fields)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userService.getUserById(999L, fields));
+    }
 }
@@ -0,0 +1,109 @@
+package rest.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import rest.dtos.UserDTO;
+import rest.dtos.UserStatsDTO;
+import rest.events.UserChangeEvent;
+import rest.repositories.UserRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserStatisticsTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserStatistics userStatistics;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        userStatistics = new UserStatistics(userRepository, 2);
+    }
+
+    @Test
+    @DisplayName("aggregates are rebuilt from the database at startup")
+    void rebuildsFromDatabase() {
+        UserRepository.AgeCount young = mock(UserRepository.AgeCount.class);
+        when(young.getAge()).thenReturn(10);
+        when(young.getTotal()).thenReturn(2L);
+        UserRepository.AgeCount old = mock(UserRepository.AgeCount.class);
+        when(old.getAge()).thenReturn(100);
+        when(old.getTotal()).thenReturn(1L);
+        UserRepository.DomainCount example = mock(UserRepository.DomainCount.class);
+        when(example.getDomain()).thenReturn("example.com");
+        when(example.getTotal()).thenReturn(3L);
+        when(userRepository.countByAge()).thenReturn(List.of(young, old));
+        when(userRepository.countByEmailDomain()).thenReturn(List.of(example));
+
+        userStatistics.afterSingletonsInstantiated();
+        UserStatsDTO stats = userStatistics.snapshot(10);
+
+        assertEquals(3L, stats.getTotalUsers());
+        assertEquals(10, stats.getAgeBands().size());
+        assertEquals(2L, stats.getAgeBands().get("1-10"));
+        assertEquals(1L, stats.getAgeBands().get("91-100"));
+        assertEquals(3L, stats.getTopEmailDomains().get("example.com"));
+    }
+
+    @Test
+    @DisplayName("created and deleted users update the aggregates")
+    void appliesUserChanges() {
+        userStatistics.onUserChange(UserChangeEvent.created(user("a@Example.com", 25)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("b@example.com", 30)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("c@other.org", 45)));
+        userStatistics.onUserChange(UserChangeEvent.deleted(user("c@other.org", 45)));
+
+        UserStatsDTO stats = userStatistics.snapshot(2);
+
+        assertEquals(2L, stats.getTotalUsers());
+        assertEquals(2L, stats.getAgeBands().get("21-30"));
+        assertEquals(0L, stats.getAgeBands().get("41-50"));
+        assertEquals(2L, stats.getTopEmailDomains().get("example.com"));
+        assertFalse(stats.getTopEmailDomains().containsKey("other.org"));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("snapshot returns the top K email domains by count")
+    void returnsTopDomains() {
+        userStatistics.onUserChange(UserChangeEvent.created(user("a@one.com", 20)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("a@two.com", 20)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("b@two.com", 20)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("a@three.com", 20)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("b@three.com", 20)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("c@three.com", 20)));
+
+        UserStatsDTO stats = userStatistics.snapshot(2);
+
+        assertEquals(List.of("three.com", "two.com"), List.copyOf(stats.getTopEmailDomains().keySet()));
+    }
+
+    @Test
+    @DisplayName("deleting from a top domain promotes the next domain")
+    void deletionFromTopDomainPromotesNext() {
+        userStatistics.onUserChange(UserChangeEvent.created(user("a@one.com", 20)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("b@one.com", 20)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("a@two.com", 20)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("b@two.com", 20)));
+        userStatistics.onUserChange(UserChangeEvent.created(user("a@three.com", 20)));
+
+        userStatistics.onUserChange(UserChangeEvent.deleted(user("a@two.com", 20)));
+        userStatistics.onUserChange(UserChangeEvent.deleted(user("b@two.com", 20)));
+
+        UserStatsDTO stats = userStatistics.snapshot(10);
+
+        assertEquals(List.of("one.com", "three.com"), List.copyOf(stats.getTopEmailDomains().keySet()));
+    }
+
+    private static UserDTO user(String email, int age) {
+        return UserDTO.builder().name("User").email(email).age(age).build();
+    }
+}